@@ -1,5 +1,6 @@
 package com.example.vaadincluster;
 
+import com.example.vaadincluster.config.HazelcastConfig;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.session.hazelcast.config.annotation.web.http.EnableHazelcastHttpSession;
@@ -14,7 +15,9 @@ import org.springframework.session.hazelcast.config.annotation.web.http.EnableHa
  * - Embedded Tomcat clustering
  */
 @SpringBootApplication
-@EnableHazelcastHttpSession(maxInactiveIntervalInSeconds = 1800) // 30 minutes session timeout
+// Sessions are swept after 30 minutes idle (HazelcastConfig.SESSION_MAX_IDLE_SECONDS); the
+// inactive interval adds the backstop margin for Hazelcast's own per-entry expiry
+@EnableHazelcastHttpSession(maxInactiveIntervalInSeconds = HazelcastConfig.SESSION_BACKSTOP_IDLE_SECONDS)
 public class VaadinHazelcastClusterApplication {
 
     public static void main(String[] args) {
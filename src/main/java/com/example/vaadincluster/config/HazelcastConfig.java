@@ -3,49 +3,92 @@ package com.example.vaadincluster.config;
 import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.session.hazelcast.HazelcastIndexedSessionRepository;
+import org.springframework.session.hazelcast.PrincipalNameExtractor;
+
+import java.time.Duration;
+import java.util.List;
 
 
 /**
  * Hazelcast configuration for distributed session management.
  * 
  * This configuration sets up:
- * - Hazelcast cluster with multicast discovery
+ * - Hazelcast cluster with multicast (or fixed TCP/IP member) discovery
  * - Session replication across cluster nodes
  * - Network configuration for clustering
- * - Session map configuration with backup and TTL
+ * - Session map configuration with backup and idle expiry
+ * - Principal name and tenant indexes on the session map
  */
 @Configuration
 public class HazelcastConfig {
 
+    /**
+     * Default idle time after which SessionExpirationService sweeps a session (30 minutes)
+     */
+    public static final int SESSION_MAX_IDLE_SECONDS = 1800;
+
+    /**
+     * Extra time a session is kept in Hazelcast past its effective idle time, so
+     * Hazelcast's own per-entry expiry only catches sessions the sweep missed
+     */
+    public static final int SESSION_BACKSTOP_MARGIN_SECONDS = 120;
+
+    /**
+     * Default session max inactive interval: the idle time plus the backstop margin
+     */
+    public static final int SESSION_BACKSTOP_IDLE_SECONDS = SESSION_MAX_IDLE_SECONDS + SESSION_BACKSTOP_MARGIN_SECONDS;
+
+    /**
+     * Default synchronous backup copies of the session map (hazelcast.session.backup-count)
+     */
+    public static final int DEFAULT_SESSION_BACKUP_COUNT = 1;
+
+    /**
+     * Default asynchronous backup copies of the session map (hazelcast.session.async-backup-count)
+     */
+    public static final int DEFAULT_SESSION_ASYNC_BACKUP_COUNT = 0;
+
     /**
      * Configure Hazelcast instance for session clustering
      */
     @Bean
-    public HazelcastInstance hazelcastInstance() {
+    public HazelcastInstance hazelcastInstance(
+            @Value("${hazelcast.instance.name:vaadin-cluster-instance}") String instanceName,
+            @Value("${hazelcast.cluster.name:vaadin-cluster}") String clusterName,
+            @Value("${hazelcast.network.port:5701}") int port,
+            @Value("${hazelcast.join.tcp-members:}") List<String> tcpMembers,
+            @Value("${hazelcast.session.backup-count:" + DEFAULT_SESSION_BACKUP_COUNT + "}") int backupCount,
+            @Value("${hazelcast.session.async-backup-count:" + DEFAULT_SESSION_ASYNC_BACKUP_COUNT + "}") int asyncBackupCount) {
         Config config = new Config();
         
         // Instance name and cluster configuration
-        config.setInstanceName("vaadin-cluster-instance");
-        config.setClusterName("vaadin-cluster");
+        config.setInstanceName(instanceName);
+        config.setClusterName(clusterName);
         
         // Network configuration for clustering
         NetworkConfig networkConfig = config.getNetworkConfig();
-        networkConfig.setPort(5701);
+        networkConfig.setPort(port);
         networkConfig.setPortAutoIncrement(true);
         networkConfig.setPortCount(20);
         
-        // Join configuration - using multicast for local development
+        // Join configuration - using multicast for local development,
+        // or a fixed TCP/IP member list where multicast is unavailable (containers, CI)
         JoinConfig joinConfig = networkConfig.getJoin();
+        boolean useTcpIp = tcpMembers.stream().anyMatch(member -> !member.isBlank());
         joinConfig.getMulticastConfig()
-                .setEnabled(true)
+                .setEnabled(!useTcpIp)
                 .setMulticastGroup("224.2.2.3")
                 .setMulticastPort(54327);
+        joinConfig.getTcpIpConfig().setEnabled(useTcpIp);
+        tcpMembers.stream()
+                .filter(member -> !member.isBlank())
+                .forEach(member -> joinConfig.getTcpIpConfig().addMember(member.trim()));
         
         // Disable other join methods
-        joinConfig.getTcpIpConfig().setEnabled(false);
         joinConfig.getAwsConfig().setEnabled(false);
         joinConfig.getGcpConfig().setEnabled(false);
         joinConfig.getAzureConfig().setEnabled(false);
@@ -53,16 +96,41 @@ public class HazelcastConfig {
         joinConfig.getEurekaConfig().setEnabled(false);
         
         // Configure session map
+        MapConfig sessionMapConfig = createSessionMapConfig(backupCount, asyncBackupCount);
+        
+        // Add session map configuration
+        config.addMapConfig(sessionMapConfig);
+        
+        // Management center configuration (optional)
+        ManagementCenterConfig managementCenterConfig = new ManagementCenterConfig();
+        managementCenterConfig.setConsoleEnabled(true);
+        config.setManagementCenterConfig(managementCenterConfig);
+        
+        // Serialization configuration
+        SerializationConfig serializationConfig = config.getSerializationConfig();
+        serializationConfig.addPortableFactory(1, new SessionPortableFactory());
+        
+        return Hazelcast.newHazelcastInstance(config);
+    }
+
+    /**
+     * Create the session map configuration: backups, idle expiry, eviction and
+     * the principal name / tenant indexes used for lookups and bulk logout
+     */
+    public static MapConfig createSessionMapConfig(int backupCount, int asyncBackupCount) {
         MapConfig sessionMapConfig = new MapConfig();
         sessionMapConfig.setName(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
         
         // Session backup and eviction configuration
-        sessionMapConfig.setBackupCount(1); // One backup copy
-        sessionMapConfig.setAsyncBackupCount(0);
+        sessionMapConfig.setBackupCount(backupCount);
+        sessionMapConfig.setAsyncBackupCount(asyncBackupCount);
         
-        // TTL configuration for sessions (30 minutes)
-        sessionMapConfig.setTimeToLiveSeconds(1800);
-        sessionMapConfig.setMaxIdleSeconds(1800);
+        // Idle expiry only; no map-wide TTL or max-idle, so active sessions are never cut off and
+        // intervals set per session are honoured. SessionExpirationService sweeps idle sessions in
+        // batches at their effective interval; Spring Session stores every entry with a TTL of the
+        // session's own interval, refreshed on each save, which acts as the backstop.
+        sessionMapConfig.setTimeToLiveSeconds(0);
+        sessionMapConfig.setMaxIdleSeconds(0);
         
         // Eviction policy
         EvictionConfig evictionConfig = new EvictionConfig();
@@ -71,19 +139,38 @@ public class HazelcastConfig {
         evictionConfig.setSize(10000);
         sessionMapConfig.setEvictionConfig(evictionConfig);
         
-        // Add session map configuration
-        config.addMapConfig(sessionMapConfig);
-        
-        // Management center configuration (optional)
-        ManagementCenterConfig managementCenterConfig = new ManagementCenterConfig();
-        managementCenterConfig.setConsoleEnabled(true);
-        config.setManagementCenterConfig(managementCenterConfig);
+        // Indexes for lookup and bulk invalidation by principal name and tenant
+        sessionMapConfig.addAttributeConfig(new AttributeConfig(
+                HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE,
+                PrincipalNameExtractor.class.getName()));
+        sessionMapConfig.addAttributeConfig(new AttributeConfig(
+                TenantIdExtractor.TENANT_ID_ATTRIBUTE,
+                TenantIdExtractor.class.getName()));
+        sessionMapConfig.addIndexConfig(new IndexConfig(
+                IndexType.HASH, HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE));
+        sessionMapConfig.addIndexConfig(new IndexConfig(
+                IndexType.HASH, TenantIdExtractor.TENANT_ID_ATTRIBUTE));
         
-        // Serialization configuration
-        SerializationConfig serializationConfig = config.getSerializationConfig();
-        serializationConfig.addPortableFactory(1, new SessionPortableFactory());
+        // Sorted index for the idle session sweep
+        sessionMapConfig.addAttributeConfig(new AttributeConfig(
+                IdleDeadlineExtractor.IDLE_DEADLINE_MILLIS_ATTRIBUTE,
+                IdleDeadlineExtractor.class.getName()));
+        sessionMapConfig.addIndexConfig(new IndexConfig(
+                IndexType.SORTED, IdleDeadlineExtractor.IDLE_DEADLINE_MILLIS_ATTRIBUTE));
         
-        return Hazelcast.newHazelcastInstance(config);
+        return sessionMapConfig;
+    }
+
+    /**
+     * Idle time after which a session with the given max inactive interval is swept:
+     * the interval minus the backstop margin. Intervals too short to carry the margin
+     * are used as they are.
+     */
+    public static Duration effectiveMaxInactiveInterval(Duration maxInactiveInterval) {
+        Duration margin = Duration.ofSeconds(SESSION_BACKSTOP_MARGIN_SECONDS);
+        return maxInactiveInterval.compareTo(margin) > 0
+                ? maxInactiveInterval.minus(margin)
+                : maxInactiveInterval;
     }
     
 
@@ -0,0 +1,37 @@
+package com.example.vaadincluster.config;
+
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import org.springframework.session.Session;
+
+/**
+ * Hazelcast value extractor exposing the epoch millisecond at which a session
+ * becomes idle according to its own max inactive interval, so expired sessions
+ * can be found through a sorted index.
+ *
+ * Sessions that never expire (negative interval) have no deadline and are
+ * never matched.
+ */
+public class IdleDeadlineExtractor implements ValueExtractor<Session, String> {
+
+    /**
+     * Map attribute name of the idle deadline in epoch milliseconds
+     */
+    public static final String IDLE_DEADLINE_MILLIS_ATTRIBUTE = "idleDeadlineMillis";
+
+    @Override
+    public void extract(Session target, String argument, ValueCollector collector) {
+        if (!target.getMaxInactiveInterval().isNegative()) {
+            collector.addObject(idleDeadlineMillis(target));
+        }
+    }
+
+    /**
+     * Last access time plus the session's effective max inactive interval
+     */
+    public static long idleDeadlineMillis(Session session) {
+        return session.getLastAccessedTime()
+                .plus(HazelcastConfig.effectiveMaxInactiveInterval(session.getMaxInactiveInterval()))
+                .toEpochMilli();
+    }
+}
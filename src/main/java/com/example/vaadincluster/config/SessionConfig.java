@@ -1,5 +1,6 @@
 package com.example.vaadincluster.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.session.web.http.DefaultCookieSerializer;
@@ -39,7 +40,9 @@ public class SessionConfig {
      * Customize embedded Tomcat for clustering
      */
     @Bean
-    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> tomcatCustomizer() {
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> tomcatCustomizer(
+            @Value("${tomcat.ajp.enabled:true}") boolean ajpEnabled,
+            @Value("${tomcat.ajp.port:8009}") int ajpPort) {
         return factory -> {
             factory.addConnectorCustomizers(connector -> {
                 Http11NioProtocol protocol = (Http11NioProtocol) connector.getProtocolHandler();
@@ -51,24 +54,28 @@ public class SessionConfig {
                 protocol.setKeepAliveTimeout(15000);
                 protocol.setMaxKeepAliveRequests(100);
                 
-                // Enable compression
+                // Enable compression for dynamic UIDL/JSON responses only; the static bundle
+                // is served precompressed via sendfile (see StaticResourceConfig)
                 protocol.setCompression("on");
                 protocol.setCompressionMinSize(1024);
-                protocol.setCompressibleMimeType("text/html,text/xml,text/plain,text/css,text/javascript,application/javascript,application/json");
+                protocol.setCompressibleMimeType("application/json");
+                protocol.setUseSendfile(true);
             });
             
             // Add additional connector for cluster communication if needed
-            factory.addAdditionalTomcatConnectors(createClusterConnector());
+            if (ajpEnabled) {
+                factory.addAdditionalTomcatConnectors(createClusterConnector(ajpPort));
+            }
         };
     }
     
     /**
      * Create AJP connector for Apache load balancer communication
      */
-    private Connector createClusterConnector() {
+    private Connector createClusterConnector(int port) {
         // Create AJP connector for Apache integration
         Connector ajpConnector = new Connector("AJP/1.3");
-        ajpConnector.setPort(8009); // Standard AJP port
+        ajpConnector.setPort(port); // Standard AJP port is 8009
         ajpConnector.setSecure(false);
         ajpConnector.setAllowTrace(false);
         ajpConnector.setScheme("http");
@@ -0,0 +1,41 @@
+package com.example.vaadincluster.config;
+
+import com.example.vaadincluster.web.PrecompressedResourceFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Static resource configuration for the Vaadin production bundle.
+ * 
+ * This configuration ensures:
+ * - Precompressed (.br / .gz) bundle files are served instead of compressing on request threads
+ * - Hashed bundle files are cached by browsers as immutable
+ * - Bundle requests are answered before the session filter touches Hazelcast
+ */
+@Configuration
+public class StaticResourceConfig {
+
+    /**
+     * Request path of the frontend bundle emitted by the production build
+     */
+    public static final String BUNDLE_REQUEST_PREFIX = "/VAADIN/build/";
+
+    /**
+     * Classpath location the vaadin-maven-plugin writes the bundle to
+     */
+    public static final String BUNDLE_CLASSPATH_LOCATION = "META-INF/VAADIN/webapp/VAADIN/build/";
+
+    /**
+     * Register the precompressed resource filter ahead of every other filter
+     */
+    @Bean
+    public FilterRegistrationBean<PrecompressedResourceFilter> precompressedResourceFilter() {
+        FilterRegistrationBean<PrecompressedResourceFilter> registration = new FilterRegistrationBean<>(
+                new PrecompressedResourceFilter(BUNDLE_REQUEST_PREFIX, BUNDLE_CLASSPATH_LOCATION));
+        registration.addUrlPatterns(BUNDLE_REQUEST_PREFIX + "*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
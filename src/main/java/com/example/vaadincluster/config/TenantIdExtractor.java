@@ -0,0 +1,30 @@
+package com.example.vaadincluster.config;
+
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+import org.springframework.session.MapSession;
+
+/**
+ * Hazelcast value extractor exposing the tenant id session attribute as a
+ * queryable (and indexable) attribute of the session map.
+ *
+ * The application does not know tenants itself: whoever establishes the
+ * user's tenant (e.g. the login flow) must store it in the session under
+ * {@link #TENANT_ID_ATTRIBUTE}. Sessions without it never match a tenant
+ * lookup or tenant logout.
+ */
+public class TenantIdExtractor implements ValueExtractor<MapSession, String> {
+
+    /**
+     * Session attribute holding the tenant id, also used as the map attribute name
+     */
+    public static final String TENANT_ID_ATTRIBUTE = "tenantId";
+
+    @Override
+    public void extract(MapSession target, String argument, ValueCollector collector) {
+        Object tenantId = target.getAttribute(TENANT_ID_ATTRIBUTE);
+        if (tenantId != null) {
+            collector.addObject(tenantId.toString());
+        }
+    }
+}
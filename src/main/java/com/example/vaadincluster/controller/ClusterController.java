@@ -1,12 +1,20 @@
 package com.example.vaadincluster.controller;
 
+import com.example.vaadincluster.config.HazelcastConfig;
+import com.example.vaadincluster.service.SessionExpirationService;
 import com.example.vaadincluster.service.SessionService;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.cluster.Member;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +27,7 @@ import java.util.stream.Collectors;
  * Provides endpoints for:
  * - Cluster status and health checks
  * - Session information and statistics
+ * - Session counts and bulk invalidation by principal or tenant (admin token required)
  * - Testing session replication
  */
 @RestController
@@ -26,13 +35,21 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class ClusterController {
 
+    private static final String ADMIN_TOKEN_HEADER = "X-Cluster-Admin-Token";
+
     private final HazelcastInstance hazelcastInstance;
     private final SessionService sessionService;
+    private final SessionExpirationService sessionExpirationService;
+    private final String adminToken;
 
     @Autowired
-    public ClusterController(HazelcastInstance hazelcastInstance, SessionService sessionService) {
+    public ClusterController(HazelcastInstance hazelcastInstance, SessionService sessionService,
+                             SessionExpirationService sessionExpirationService,
+                             @Value("${cluster.admin.token:}") String adminToken) {
         this.hazelcastInstance = hazelcastInstance;
         this.sessionService = sessionService;
+        this.sessionExpirationService = sessionExpirationService;
+        this.adminToken = adminToken;
     }
 
     /**
@@ -69,6 +86,84 @@ public class ClusterController {
         return sessionService.getClusterStats();
     }
 
+    /**
+     * Get session expiration pipeline statistics for this node
+     */
+    @GetMapping("/sessions/expiration")
+    public Map<String, Object> getExpirationStats() {
+        Map<String, Object> stats = new HashMap<>(sessionExpirationService.getExpirationStats());
+        stats.put("timestamp", LocalDateTime.now().toString());
+        return stats;
+    }
+
+    /**
+     * Count the sessions of a principal (admin only)
+     */
+    @GetMapping("/sessions/principal/{principalName}")
+    public Map<String, Object> getSessionsByPrincipal(
+            @PathVariable String principalName,
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken) {
+        requireAdmin(adminToken);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("principalName", principalName);
+        result.put("count", sessionService.findSessionIdsByPrincipal(principalName).size());
+        result.put("timestamp", LocalDateTime.now().toString());
+
+        return result;
+    }
+
+    /**
+     * Invalidate all sessions of a principal across the cluster (admin only)
+     */
+    @DeleteMapping("/sessions/principal/{principalName}")
+    public Map<String, Object> invalidateSessionsByPrincipal(
+            @PathVariable String principalName,
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken) {
+        requireAdmin(adminToken);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("principalName", principalName);
+        result.put("invalidated", sessionService.invalidateSessionsByPrincipal(principalName));
+        result.put("timestamp", LocalDateTime.now().toString());
+
+        return result;
+    }
+
+    /**
+     * Count the sessions of a tenant (admin only)
+     */
+    @GetMapping("/sessions/tenant/{tenantId}")
+    public Map<String, Object> getSessionsByTenant(
+            @PathVariable String tenantId,
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken) {
+        requireAdmin(adminToken);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("tenantId", tenantId);
+        result.put("count", sessionService.findSessionIdsByTenant(tenantId).size());
+        result.put("timestamp", LocalDateTime.now().toString());
+
+        return result;
+    }
+
+    /**
+     * Invalidate all sessions of a tenant across the cluster (admin only)
+     */
+    @DeleteMapping("/sessions/tenant/{tenantId}")
+    public Map<String, Object> invalidateSessionsByTenant(
+            @PathVariable String tenantId,
+            @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false) String adminToken) {
+        requireAdmin(adminToken);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("tenantId", tenantId);
+        result.put("invalidated", sessionService.invalidateSessionsByTenant(tenantId));
+        result.put("timestamp", LocalDateTime.now().toString());
+
+        return result;
+    }
+
     /**
      * Get current session information
      */
@@ -78,7 +173,9 @@ public class ClusterController {
         sessionInfo.put("sessionId", session.getId());
         sessionInfo.put("creationTime", session.getCreationTime());
         sessionInfo.put("lastAccessedTime", session.getLastAccessedTime());
-        sessionInfo.put("maxInactiveInterval", session.getMaxInactiveInterval());
+        // The stored interval includes the expiry backstop margin; report when the session is actually swept
+        sessionInfo.put("maxInactiveInterval", HazelcastConfig.effectiveMaxInactiveInterval(
+                Duration.ofSeconds(session.getMaxInactiveInterval())).getSeconds());
         sessionInfo.put("isNew", session.isNew());
 
         // Get session attributes
@@ -159,5 +256,17 @@ public class ClusterController {
         
         return result;
     }
-}
 
+    /**
+     * Reject the request unless it carries the configured admin token.
+     * Without a configured token the admin endpoints are disabled.
+     */
+    private void requireAdmin(String adminToken) {
+        if (this.adminToken.isEmpty() || adminToken == null
+                || !MessageDigest.isEqual(
+                        this.adminToken.getBytes(StandardCharsets.UTF_8),
+                        adminToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.example.vaadincluster.service;
+
+import com.example.vaadincluster.config.HazelcastConfig;
+import com.example.vaadincluster.config.IdleDeadlineExtractor;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.server.WrappedSession;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.hazelcast.HazelcastIndexedSessionRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Batched expiration of idle clustered sessions.
+ *
+ * Instead of reacting to one expiry event per session, every member
+ * periodically sweeps its own partitions:
+ * - Finds idle sessions among its locally owned entries through the sorted idle deadline index
+ * - Removes them in batches with an entry processor that re-checks idleness on the owning partition
+ * - Fires the Vaadin session destroy callbacks for the removed sessions on a bounded worker pool
+ * - Records expiration metrics
+ *
+ * A session is idle once its last access is older than its own max inactive
+ * interval minus {@link HazelcastConfig#SESSION_BACKSTOP_MARGIN_SECONDS}.
+ * Hazelcast's per-entry expiry, set by Spring Session to the full interval,
+ * only catches sessions the sweep missed, e.g. while a member is down. Removals
+ * done by the sweep still produce Spring Session's per-entry map event; what is
+ * batched here is the lookup, the removal and the cleanup work.
+ *
+ * Bulk logouts use the same member-local path: {@link SessionService} sends a
+ * task to every member, which finds this service through the Hazelcast user
+ * context and calls {@link #invalidateLocalSessions(Predicate)}.
+ *
+ * When the worker pool is saturated the removing thread runs the cleanup
+ * itself, which slows the sweep down instead of growing a backlog. No cleanup
+ * ever runs on Hazelcast event threads.
+ */
+@Service
+public class SessionExpirationService implements VaadinServiceInitListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionExpirationService.class);
+
+    /**
+     * Key under which each member's instance is registered in the Hazelcast user context
+     */
+    public static final String USER_CONTEXT_KEY = SessionExpirationService.class.getName();
+
+    private final HazelcastInstance hazelcastInstance;
+    private final int batchSize;
+    private final ScheduledExecutorService sweepScheduler;
+    private final ThreadPoolExecutor workerPool;
+
+    private final AtomicLong sweepCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final AtomicLong invalidatedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong destroyedVaadinSessionCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lastSweepNanos = new AtomicLong();
+
+    private volatile VaadinService vaadinService;
+
+    @Autowired
+    public SessionExpirationService(
+            HazelcastInstance hazelcastInstance,
+            @Value("${session.expiration.batch-size:500}") int batchSize,
+            @Value("${session.expiration.worker-threads:2}") int workerThreads,
+            @Value("${session.expiration.sweep-interval-ms:15000}") long sweepIntervalMs) {
+        this.hazelcastInstance = hazelcastInstance;
+        this.batchSize = batchSize;
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workerPool = new ThreadPoolExecutor(
+                workerThreads, workerThreads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workerThreads * 2),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "session-expiration-" + workerIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.sweepScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-expiration-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweepScheduler.scheduleWithFixedDelay(this::sweep, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+
+        hazelcastInstance.getUserContext().put(USER_CONTEXT_KEY, this);
+    }
+
+    /**
+     * Capture the Vaadin service so destroy callbacks can be fired outside of a request
+     */
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        this.vaadinService = event.getSource();
+    }
+
+    /**
+     * Invalidate the sessions matching a predicate among the entries owned by this member,
+     * e.g. for a forced logout, and run their Vaadin cleanup here
+     *
+     * @return number of invalidated sessions
+     */
+    public int invalidateLocalSessions(Predicate<String, Object> predicate) {
+        int invalidated = removeLocalSessions(predicate, new InvalidateSessionEntryProcessor());
+        invalidatedCount.addAndGet(invalidated);
+        return invalidated;
+    }
+
+    /**
+     * Get expiration statistics for this node
+     */
+    public Map<String, Object> getExpirationStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("sweeps", sweepCount.get());
+        stats.put("expired", expiredCount.get());
+        stats.put("invalidated", invalidatedCount.get());
+        stats.put("batches", batchCount.get());
+        stats.put("vaadinSessionsDestroyed", destroyedVaadinSessionCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("queuedBatches", workerPool.getQueue().size());
+        stats.put("activeWorkers", workerPool.getActiveCount());
+        stats.put("lastSweepMillis", Duration.ofNanos(lastSweepNanos.get()).toMillis());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (hazelcastInstance.getLifecycleService().isRunning()) {
+            hazelcastInstance.getUserContext().remove(USER_CONTEXT_KEY, this);
+        }
+        sweepScheduler.shutdown();
+        sweepScheduler.awaitTermination(30, TimeUnit.SECONDS);
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Dropped {} pending session cleanup batches on shutdown",
+                    workerPool.shutdownNow().size());
+        }
+    }
+
+    /**
+     * Expire the idle sessions of the partitions owned by this member, one batch at a time
+     */
+    private void sweep() {
+        if (!hazelcastInstance.getLifecycleService().isRunning()) {
+            // The member is shutting down or was terminated; its partitions are owned elsewhere now
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            long now = System.currentTimeMillis();
+            expiredCount.addAndGet(removeLocalSessions(
+                    Predicates.lessThan(IdleDeadlineExtractor.IDLE_DEADLINE_MILLIS_ATTRIBUTE, now),
+                    new ExpireIdleSessionEntryProcessor(now)));
+        } catch (RuntimeException e) {
+            // Keep the schedule alive; the next sweep retries
+            logger.warn("Session expiration sweep failed", e);
+        } finally {
+            sweepCount.incrementAndGet();
+            lastSweepNanos.set(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Remove the locally owned sessions matching a predicate in batches, handing each
+     * batch of removed sessions to the worker pool for the Vaadin cleanup
+     *
+     * @return number of removed sessions
+     */
+    private int removeLocalSessions(Predicate<String, Object> predicate,
+                                    EntryProcessor<String, Object, MapSession> removeProcessor) {
+        IMap<String, Object> sessionMap = hazelcastInstance.getMap(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+        int removed = 0;
+        Set<String> batch = new HashSet<>();
+        for (String key : sessionMap.localKeySet(predicate)) {
+            batch.add(key);
+            if (batch.size() == batchSize) {
+                removed += removeBatch(sessionMap, batch, removeProcessor);
+                batch = new HashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            removed += removeBatch(sessionMap, batch, removeProcessor);
+        }
+        return removed;
+    }
+
+    private int removeBatch(IMap<String, Object> sessionMap, Set<String> keys,
+                            EntryProcessor<String, Object, MapSession> removeProcessor) {
+        List<Session> removed = new ArrayList<>(sessionMap.executeOnKeys(keys, removeProcessor).values());
+        removed.removeIf(Objects::isNull);
+        batchCount.incrementAndGet();
+        if (!removed.isEmpty()) {
+            workerPool.execute(() -> destroyVaadinSessions(removed));
+        }
+        return removed.size();
+    }
+
+    private void destroyVaadinSessions(List<Session> sessions) {
+        for (Session session : sessions) {
+            try {
+                destroyVaadinSessions(session);
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                logger.warn("Failed to clean up removed session {}", session.getId(), e);
+            }
+        }
+    }
+
+    /**
+     * Fire the Vaadin destroy callbacks for every VaadinSession stored in a removed session
+     */
+    private void destroyVaadinSessions(Session session) {
+        VaadinService service = vaadinService;
+        if (service == null) {
+            return;
+        }
+        WrappedSession wrappedSession = new DetachedWrappedSession(session);
+        for (String attributeName : session.getAttributeNames()) {
+            if (session.getAttribute(attributeName) instanceof VaadinSession vaadinSession) {
+                vaadinSession.refreshTransients(wrappedSession, service);
+                if (vaadinSession.getLockInstance() == null) {
+                    continue;
+                }
+                service.fireSessionDestroy(vaadinSession);
+                destroyedVaadinSessionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Entry processor removing a session if its idle deadline is still before now, returning the removed session
+     */
+    private static class ExpireIdleSessionEntryProcessor implements EntryProcessor<String, Object, MapSession> {
+
+        private final long now;
+
+        private ExpireIdleSessionEntryProcessor(long now) {
+            this.now = now;
+        }
+
+        @Override
+        public MapSession process(Map.Entry<String, Object> entry) {
+            // Re-check on the partition thread: the session may have been used since the query ran
+            if (entry.getValue() instanceof MapSession session
+                    && !session.getMaxInactiveInterval().isNegative()
+                    && IdleDeadlineExtractor.idleDeadlineMillis(session) < now) {
+                entry.setValue(null);
+                return session;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Entry processor removing a session unconditionally, returning the removed session
+     */
+    private static class InvalidateSessionEntryProcessor implements EntryProcessor<String, Object, MapSession> {
+        @Override
+        public MapSession process(Map.Entry<String, Object> entry) {
+            Object value = entry.getValue();
+            entry.setValue(null);
+            return value instanceof MapSession session ? session : null;
+        }
+    }
+
+    /**
+     * View of a session that is no longer in the cluster as a Vaadin {@link WrappedSession}
+     */
+    private static final class DetachedWrappedSession implements WrappedSession {
+
+        private final Session session;
+
+        private DetachedWrappedSession(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public int getMaxInactiveInterval() {
+            return (int) session.getMaxInactiveInterval().getSeconds();
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return session.getAttribute(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            session.setAttribute(name, value);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return session.getAttributeNames();
+        }
+
+        @Override
+        public void invalidate() {
+            // Already gone from the cluster
+        }
+
+        @Override
+        public String getId() {
+            return session.getId();
+        }
+
+        @Override
+        public long getCreationTime() {
+            return session.getCreationTime().toEpochMilli();
+        }
+
+        @Override
+        public long getLastAccessedTime() {
+            return session.getLastAccessedTime().toEpochMilli();
+        }
+
+        @Override
+        public boolean isNew() {
+            return false;
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            session.removeAttribute(name);
+        }
+
+        @Override
+        public void setMaxInactiveInterval(int interval) {
+            session.setMaxInactiveInterval(Duration.ofSeconds(interval));
+        }
+    }
+}
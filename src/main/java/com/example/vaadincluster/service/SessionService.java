@@ -1,13 +1,22 @@
 package com.example.vaadincluster.service;
 
+import com.example.vaadincluster.config.TenantIdExtractor;
+import com.hazelcast.cluster.Member;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.session.hazelcast.HazelcastIndexedSessionRepository;
 import org.springframework.stereotype.Service;
 
+import java.io.Serializable;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * Service for managing sessions and cluster operations.
@@ -16,10 +25,16 @@ import java.util.Set;
  * - Session monitoring across the cluster
  * - Session statistics
  * - Cluster health checks
+ * - Indexed lookup and bulk invalidation by principal name or tenant
  */
 @Service
 public class SessionService {
 
+    /**
+     * Hazelcast executor running the member-local part of bulk invalidations
+     */
+    public static final String INVALIDATION_EXECUTOR_NAME = "session-invalidation";
+
     private final HazelcastInstance hazelcastInstance;
 
     @Autowired
@@ -55,6 +70,41 @@ public class SessionService {
         return getSessionMap().get(sessionId);
     }
 
+    /**
+     * Find the IDs of all sessions of a principal, using the principal name index
+     */
+    public Set<String> findSessionIdsByPrincipal(String principalName) {
+        return getSessionMap().keySet(principalPredicate(principalName));
+    }
+
+    /**
+     * Find the IDs of all sessions of a tenant, using the tenant index.
+     * Only sessions carrying the {@link TenantIdExtractor#TENANT_ID_ATTRIBUTE} attribute can match.
+     */
+    public Set<String> findSessionIdsByTenant(String tenantId) {
+        return getSessionMap().keySet(tenantPredicate(tenantId));
+    }
+
+    /**
+     * Invalidate all sessions of a principal across the cluster.
+     * The removal and the Vaadin cleanup run on the members owning the matching sessions.
+     *
+     * @return number of invalidated sessions
+     */
+    public int invalidateSessionsByPrincipal(String principalName) {
+        return invalidateSessions(principalPredicate(principalName));
+    }
+
+    /**
+     * Invalidate all sessions of a tenant across the cluster.
+     * The removal and the Vaadin cleanup run on the members owning the matching sessions.
+     *
+     * @return number of invalidated sessions
+     */
+    public int invalidateSessionsByTenant(String tenantId) {
+        return invalidateSessions(tenantPredicate(tenantId));
+    }
+
     /**
      * Check if the cluster is healthy
      */
@@ -93,5 +143,64 @@ public class SessionService {
             }
         });
     }
-}
 
+    /**
+     * Run the invalidation on every member against its own entries and sum the counts.
+     * Sessions are only deserialized on their owners; nothing but counts travels back.
+     */
+    private int invalidateSessions(Predicate<String, Object> predicate) {
+        Map<Member, Future<Integer>> results = hazelcastInstance.getExecutorService(INVALIDATION_EXECUTOR_NAME)
+                .submitToAllMembers(new InvalidateLocalSessionsTask(predicate));
+        int invalidated = 0;
+        try {
+            for (Future<Integer> result : results.values()) {
+                invalidated += result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while invalidating sessions", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to invalidate sessions", e.getCause());
+        }
+        return invalidated;
+    }
+
+    private static Predicate<String, Object> principalPredicate(String principalName) {
+        return Predicates.equal(HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE, principalName);
+    }
+
+    private static Predicate<String, Object> tenantPredicate(String tenantId) {
+        return Predicates.equal(TenantIdExtractor.TENANT_ID_ATTRIBUTE, tenantId);
+    }
+
+    /**
+     * Task invalidating the matching sessions owned by the member it runs on.
+     * Removal publishes SessionDeletedEvent, not an expiry, so the member's
+     * {@link SessionExpirationService} runs the Vaadin cleanup explicitly.
+     */
+    private static class InvalidateLocalSessionsTask
+            implements Callable<Integer>, HazelcastInstanceAware, Serializable {
+
+        private final Predicate<String, Object> predicate;
+        private transient HazelcastInstance hazelcastInstance;
+
+        private InvalidateLocalSessionsTask(Predicate<String, Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+            this.hazelcastInstance = hazelcastInstance;
+        }
+
+        @Override
+        public Integer call() {
+            Object service = hazelcastInstance.getUserContext().get(SessionExpirationService.USER_CONTEXT_KEY);
+            if (!(service instanceof SessionExpirationService expirationService)) {
+                throw new IllegalStateException("No SessionExpirationService registered on member "
+                        + hazelcastInstance.getCluster().getLocalMember());
+            }
+            return expirationService.invalidateLocalSessions(predicate);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.vaadincluster.views;
 
+import com.example.vaadincluster.config.HazelcastConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.cluster.Member;
 import com.vaadin.flow.component.button.Button;
@@ -16,6 +17,7 @@ import com.vaadin.flow.server.VaadinSession;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import jakarta.servlet.http.HttpSession;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Set;
@@ -206,7 +208,8 @@ public class MainView extends VerticalLayout {
         info.append("<strong>Counter Value:</strong> ").append(counter != null ? counter : 0).append("<br>");
         info.append("<strong>Username:</strong> ").append(username != null ? username : "Not set").append("<br>");
         info.append("<strong>Session Created:</strong> ").append(created != null ? created : "Unknown").append("<br>");
-        info.append("<strong>Max Inactive Interval:</strong> ").append(session.getMaxInactiveInterval()).append(" seconds<br>");
+        info.append("<strong>Max Inactive Interval:</strong> ").append(HazelcastConfig.effectiveMaxInactiveInterval(
+                Duration.ofSeconds(session.getMaxInactiveInterval())).getSeconds()).append(" seconds<br>");
         info.append("<strong>Last Accessed:</strong> ").append(
             LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
         );
@@ -0,0 +1,279 @@
+package com.example.vaadincluster.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves the Vaadin production bundle from its precompressed variants.
+ *
+ * For every request below the bundle path this filter:
+ * - Picks the Brotli (.br) or gzip (.gz) variant generated at build time when the client accepts it
+ * - Answers with a strong, content-derived ETag per variant
+ * - Marks content-hashed files as immutable for one year
+ * - Hands the file to Tomcat's sendfile support so the body is written zero-copy
+ *
+ * Resources packaged inside the application jar are extracted to a temporary
+ * directory so sendfile can be used for them as well; a file removed from there
+ * (e.g. by a temp cleaner) is extracted again on the next request. Only files
+ * that exist in the bundle are cached. Requests for anything else fall through
+ * to the Vaadin servlet.
+ */
+public class PrecompressedResourceFilter extends OncePerRequestFilter {
+
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    // Vite/Rollup name chunks [name]-[hash].[ext] with an 8 character base64url hash, e.g. indexhtml-DzG7Ujb4.js.
+    // The alphabet overlaps plain words, so a suffix of only lowercase letters and '-' is not treated as a hash.
+    // A hand-written file named like "theme-Dark2024.css" would still be classified as hashed; the bundle folder
+    // only ever contains Vite output.
+    private static final Pattern HASHED_FILE_NAME = Pattern.compile("[^/]+-([A-Za-z0-9_-]{8})\\.[A-Za-z0-9]+");
+
+    private final String requestPrefix;
+    private final String classpathLocation;
+    private final ClassLoader classLoader;
+    private final Map<String, Variant> variants = new ConcurrentHashMap<>();
+
+    private volatile Path extractionDirectory;
+
+    /**
+     * @param requestPrefix     servlet path prefix handled by this filter, e.g. {@code /VAADIN/build/}
+     * @param classpathLocation classpath folder holding the bundle, e.g. {@code META-INF/VAADIN/webapp/VAADIN/build/}
+     */
+    public PrecompressedResourceFilter(String requestPrefix, String classpathLocation) {
+        this.requestPrefix = requestPrefix;
+        this.classpathLocation = classpathLocation;
+        this.classLoader = PrecompressedResourceFilter.class.getClassLoader();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method))
+                || !getPathWithinApplication(request).startsWith(requestPrefix);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String relativePath = getPathWithinApplication(request).substring(requestPrefix.length());
+        if (!isSafePath(relativePath)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<Variant> identity = resolve(relativePath);
+        if (identity.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Variant variant = selectEncoding(request, relativePath).orElse(identity.get());
+
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, isHashed(relativePath)
+                ? IMMUTABLE_CACHE_CONTROL
+                : REVALIDATE_CACHE_CONTROL);
+
+        if (new ServletWebRequest(request, response).checkNotModified(variant.etag())) {
+            return;
+        }
+
+        String contentType = request.getServletContext().getMimeType(relativePath);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        if (variant.encoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+        }
+        response.setContentLengthLong(variant.length());
+
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, variant.file().toString());
+            request.setAttribute(SENDFILE_START_ATTR, 0L);
+            request.setAttribute(SENDFILE_END_ATTR, variant.length());
+        } else {
+            try (OutputStream out = response.getOutputStream()) {
+                Files.copy(variant.file(), out);
+            }
+        }
+    }
+
+    /**
+     * Select the best precompressed variant the client accepts, Brotli first.
+     */
+    private Optional<Variant> selectEncoding(HttpServletRequest request, String relativePath) throws IOException {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return Optional.empty();
+        }
+        if (acceptsEncoding(acceptEncoding, "br")) {
+            Optional<Variant> brotli = resolve(relativePath + ".br");
+            if (brotli.isPresent()) {
+                return brotli;
+            }
+        }
+        if (acceptsEncoding(acceptEncoding, "gzip")) {
+            return resolve(relativePath + ".gz");
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Check whether an Accept-Encoding header allows a content coding: the coding
+     * itself or, when it is not listed, the "*" wildcard must be present with a
+     * non-zero q-value.
+     */
+    static boolean acceptsEncoding(String acceptEncoding, String coding) {
+        Double wildcardQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String name = parts[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equalsIgnoreCase(coding)) {
+                return quality > 0;
+            }
+            if ("*".equals(name)) {
+                wildcardQuality = quality;
+            }
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private Optional<Variant> resolve(String relativePath) throws IOException {
+        Variant cached = variants.get(relativePath);
+        if (cached != null && Files.isRegularFile(cached.file())) {
+            return Optional.of(cached);
+        }
+        // Misses are not cached: the keys come from request paths and would grow without bound
+        Optional<Variant> loaded = load(relativePath);
+        loaded.ifPresentOrElse(variant -> variants.put(relativePath, variant), () -> variants.remove(relativePath));
+        return loaded;
+    }
+
+    /**
+     * Locate a bundle file on disk, extracting it from the jar if necessary, and compute its ETag.
+     */
+    private Optional<Variant> load(String relativePath) throws IOException {
+        URL url = classLoader.getResource(classpathLocation + relativePath);
+        if (url == null) {
+            return Optional.empty();
+        }
+
+        Path file;
+        if ("file".equals(url.getProtocol())) {
+            try {
+                file = Paths.get(url.toURI());
+            } catch (java.net.URISyntaxException e) {
+                throw new IOException("Invalid bundle resource URL " + url, e);
+            }
+        } else {
+            file = getExtractionDirectory().resolve(relativePath);
+            // Recreates the directory as well if a temp cleaner removed it
+            Files.createDirectories(file.getParent());
+            // Copy next to the target and move atomically so concurrent first requests never see a partial file
+            Path partial = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".part");
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, partial, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            file.toFile().deleteOnExit();
+        }
+
+        String etag;
+        try (InputStream in = Files.newInputStream(file)) {
+            etag = "\"" + DigestUtils.md5DigestAsHex(in) + "\"";
+        }
+
+        return Optional.of(new Variant(file.toRealPath(), Files.size(file), etag, encodingOf(relativePath)));
+    }
+
+    private Path getExtractionDirectory() throws IOException {
+        Path directory = extractionDirectory;
+        if (directory == null) {
+            synchronized (this) {
+                directory = extractionDirectory;
+                if (directory == null) {
+                    directory = Files.createTempDirectory("vaadin-bundle");
+                    directory.toFile().deleteOnExit();
+                    extractionDirectory = directory;
+                }
+            }
+        }
+        return directory;
+    }
+
+    private static String encodingOf(String relativePath) {
+        if (relativePath.endsWith(".br")) {
+            return "br";
+        }
+        if (relativePath.endsWith(".gz")) {
+            return "gzip";
+        }
+        return null;
+    }
+
+    static boolean isHashed(String relativePath) {
+        Matcher matcher = HASHED_FILE_NAME.matcher(relativePath.substring(relativePath.lastIndexOf('/') + 1));
+        return matcher.matches()
+                && matcher.group(1).chars().anyMatch(c -> Character.isUpperCase(c) || Character.isDigit(c) || c == '_');
+    }
+
+    static boolean isSafePath(String relativePath) {
+        return !relativePath.isEmpty()
+                && !relativePath.startsWith("/")
+                && !relativePath.contains("..")
+                && !relativePath.contains("\\")
+                && !relativePath.endsWith(".br")
+                && !relativePath.endsWith(".gz");
+    }
+
+    private static String getPathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * A single on-disk representation of a bundle file.
+     */
+    private record Variant(Path file, long length, String etag, String encoding) {
+    }
+}
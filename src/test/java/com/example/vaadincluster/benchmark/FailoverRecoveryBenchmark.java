@@ -0,0 +1,407 @@
+package com.example.vaadincluster.benchmark;
+
+import com.example.vaadincluster.VaadinHazelcastClusterApplication;
+import com.example.vaadincluster.config.HazelcastConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.MigrationListener;
+import com.hazelcast.partition.MigrationState;
+import com.hazelcast.partition.ReplicaMigrationEvent;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resilience benchmark measuring how long the cluster needs to serve every
+ * session again after losing a member.
+ *
+ * For every combination of backup mode (synchronous / asynchronous) and loss
+ * mode (terminate / graceful shutdown) it:
+ * - Boots N in-process {@link VaadinHazelcastClusterApplication} nodes on random ports,
+ *   joined over TCP/IP on localhost so no multicast is needed
+ * - Creates M sessions through the {@link com.example.vaadincluster.controller.ClusterController} session endpoints
+ * - Keeps read/write traffic running against the surviving nodes while the last node is lost
+ * - Reports time until every session is readable again, partition migration duration,
+ *   request latency on the survivors before and during recovery, and lost writes
+ *
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.vaadincluster.benchmark.FailoverRecoveryBenchmark \
+ *     -Dexec.args="nodes sessions trafficThreads"
+ * </pre>
+ */
+public class FailoverRecoveryBenchmark {
+
+    private static final String COOKIE_NAME = "VAADINCLUSTER_SESSIONID";
+    private static final String ATTRIBUTE_KEY = "failoverCounter";
+    private static final Pattern COOKIE_PATTERN = Pattern.compile(COOKIE_NAME + "=([^;]+)");
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("\"sessionId\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern VALUE_PATTERN = Pattern.compile("\"value\"\\s*:\\s*\"?(\\d+)\"?");
+
+    private static final Duration BASELINE_WINDOW = Duration.ofSeconds(5);
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        int nodes = argument(args, 0, 3);
+        int sessions = argument(args, 1, 1_000);
+        int trafficThreads = argument(args, 2, 8);
+
+        System.out.printf("Failover recovery benchmark: %d nodes, %d sessions, %d traffic threads%n",
+                nodes, sessions, trafficThreads);
+
+        FailoverRecoveryBenchmark benchmark = new FailoverRecoveryBenchmark();
+        List<Result> results = new ArrayList<>();
+        for (BackupMode backupMode : BackupMode.values()) {
+            for (LossMode lossMode : LossMode.values()) {
+                results.add(benchmark.run(backupMode, lossMode, nodes, sessions, trafficThreads));
+            }
+        }
+
+        System.out.printf("%n%-6s %-10s %12s %12s %12s %12s %12s %12s %8s%n",
+                "backup", "loss", "readable", "migration", "base p99", "recov p99", "recov max", "errors", "lost");
+        for (Result result : results) {
+            System.out.printf("%-6s %-10s %10dms %10dms %10.1fms %10.1fms %10.1fms %12d %8d%n",
+                    result.backupMode(), result.lossMode(),
+                    result.timeToReadableMillis(), result.migrationMillis(),
+                    result.baseline().p99(), result.recovery().p99(), result.recovery().max(),
+                    result.failedRequests(), result.lostWrites());
+        }
+        System.exit(0);
+    }
+
+    private Result run(BackupMode backupMode, LossMode lossMode, int nodeCount, int sessionCount, int trafficThreads)
+            throws Exception {
+        String clusterName = "vaadin-cluster-failover-" + backupMode.name().toLowerCase() + "-" + lossMode.name().toLowerCase();
+        System.out.printf("%n== %s backup, %s ==%n", backupMode, lossMode);
+
+        List<Node> nodes = new ArrayList<>();
+        try {
+            for (int i = 0; i < nodeCount; i++) {
+                nodes.add(startNode(clusterName, i, backupMode));
+            }
+            waitForClusterSize(nodes.get(0).hazelcastInstance(), nodeCount);
+
+            List<Node> survivors = new ArrayList<>(nodes.subList(0, nodeCount - 1));
+            Node victim = nodes.get(nodeCount - 1);
+
+            List<TrackedSession> sessions = createSessions(survivors, sessionCount);
+
+            MigrationTracker migrationTracker = new MigrationTracker();
+            survivors.get(0).hazelcastInstance().getPartitionService().addMigrationListener(migrationTracker);
+
+            // Traffic against the survivors only, so latency reflects the members that keep serving
+            ConcurrentLinkedQueue<Sample> samples = new ConcurrentLinkedQueue<>();
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicLong failedRequests = new AtomicLong();
+            ExecutorService traffic = Executors.newFixedThreadPool(trafficThreads);
+            CountDownLatch stopped = new CountDownLatch(trafficThreads);
+            for (int t = 0; t < trafficThreads; t++) {
+                traffic.execute(() -> {
+                    try {
+                        while (running.get()) {
+                            TrackedSession session = sessions.get(ThreadLocalRandom.current().nextInt(sessions.size()));
+                            Node node = survivors.get(ThreadLocalRandom.current().nextInt(survivors.size()));
+                            long start = System.nanoTime();
+                            try {
+                                write(node, session);
+                            } catch (IOException e) {
+                                failedRequests.incrementAndGet();
+                            }
+                            samples.add(new Sample(start, System.nanoTime() - start));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        stopped.countDown();
+                    }
+                });
+            }
+
+            Thread.sleep(BASELINE_WINDOW.toMillis());
+
+            long lossNanos = System.nanoTime();
+            if (lossMode == LossMode.TERMINATE) {
+                victim.hazelcastInstance().getLifecycleService().terminate();
+            }
+            victim.context().close();
+            nodes.remove(victim);
+
+            long readableNanos = waitUntilAllReadable(survivors, sessions);
+            long clusterSafeNanos = waitForClusterSafe(survivors.get(0).hazelcastInstance());
+
+            running.set(false);
+            stopped.await(30, TimeUnit.SECONDS);
+            traffic.shutdownNow();
+
+            int lostWrites = countLostWrites(survivors, sessions);
+
+            long migrationEnd = migrationTracker.lastFinishedNanos.get();
+            long migrationMillis = migrationEnd == 0
+                    ? TimeUnit.NANOSECONDS.toMillis(clusterSafeNanos - lossNanos)
+                    : TimeUnit.NANOSECONDS.toMillis(migrationEnd - lossNanos);
+
+            Result result = new Result(backupMode, lossMode,
+                    TimeUnit.NANOSECONDS.toMillis(readableNanos - lossNanos),
+                    migrationMillis,
+                    LatencyStats.of(samples, lossNanos - BASELINE_WINDOW.toNanos(), lossNanos),
+                    LatencyStats.of(samples, lossNanos, Math.max(readableNanos, clusterSafeNanos)),
+                    failedRequests.get(),
+                    lostWrites);
+            System.out.println(result);
+            return result;
+        } finally {
+            nodes.forEach(node -> node.context().close());
+        }
+    }
+
+    private Node startNode(String clusterName, int index, BackupMode backupMode) {
+        // Command line arguments, unlike builder default properties, override application.properties
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(VaadinHazelcastClusterApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--tomcat.ajp.enabled=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:" + clusterName + "-" + index,
+                        "--hazelcast.cluster.name=" + clusterName,
+                        "--hazelcast.instance.name=" + clusterName + "-node" + index,
+                        "--hazelcast.network.port=5901",
+                        "--hazelcast.join.tcp-members=127.0.0.1",
+                        "--hazelcast.session.backup-count=" + backupMode.backupCount,
+                        "--hazelcast.session.async-backup-count=" + backupMode.asyncBackupCount,
+                        "--logging.level.com.example.vaadincluster=WARN",
+                        "--logging.level.org.springframework.session=WARN");
+        int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+        return new Node(context, context.getBean(HazelcastInstance.class), URI.create("http://localhost:" + port));
+    }
+
+    private List<TrackedSession> createSessions(List<Node> nodes, int count) throws IOException, InterruptedException {
+        List<TrackedSession> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Node node = nodes.get(i % nodes.size());
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(node.uri("/api/cluster/session/test?key=" + ATTRIBUTE_KEY + "&value=0"))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            String cookie = response.headers().allValues("Set-Cookie").stream()
+                    .map(COOKIE_PATTERN::matcher)
+                    .filter(Matcher::find)
+                    .map(matcher -> matcher.group(1))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("No session cookie in response"));
+            sessions.add(new TrackedSession(cookie, extract(SESSION_ID_PATTERN, response.body())));
+        }
+        return sessions;
+    }
+
+    /**
+     * Write the next counter value; only values acknowledged with HTTP 200 count as written
+     */
+    private void write(Node node, TrackedSession session) throws IOException, InterruptedException {
+        synchronized (session) {
+            long next = session.acknowledged + 1;
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(node.uri("/api/cluster/session/test?key=" + ATTRIBUTE_KEY + "&value=" + next))
+                            .header("Cookie", COOKIE_NAME + "=" + session.cookie)
+                            .timeout(Duration.ofSeconds(30))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Write failed with HTTP " + response.statusCode());
+            }
+            if (session.sessionId.equals(extract(SESSION_ID_PATTERN, response.body()))) {
+                session.acknowledged = next;
+            }
+        }
+    }
+
+    /**
+     * Read the counter of a session, or -1 if the session is gone or unreadable
+     */
+    private long read(Node node, TrackedSession session) throws InterruptedException {
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    HttpRequest.newBuilder(node.uri("/api/cluster/session/get/" + ATTRIBUTE_KEY))
+                            .header("Cookie", COOKIE_NAME + "=" + session.cookie)
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200
+                    || !session.sessionId.equals(extract(SESSION_ID_PATTERN, response.body()))) {
+                return -1;
+            }
+            String value = extract(VALUE_PATTERN, response.body());
+            return value == null ? -1 : Long.parseLong(value);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private long waitUntilAllReadable(List<Node> nodes, List<TrackedSession> sessions) throws InterruptedException {
+        long deadline = System.nanoTime() + RECOVERY_TIMEOUT.toNanos();
+        List<TrackedSession> pending = new ArrayList<>(sessions);
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            pending.removeIf(session -> {
+                try {
+                    return read(nodes.get(ThreadLocalRandom.current().nextInt(nodes.size())), session) >= 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            });
+        }
+        if (!pending.isEmpty()) {
+            System.out.printf("%d sessions still unreadable after %s%n", pending.size(), RECOVERY_TIMEOUT);
+        }
+        return System.nanoTime();
+    }
+
+    private int countLostWrites(List<Node> nodes, List<TrackedSession> sessions) throws InterruptedException {
+        int lost = 0;
+        for (TrackedSession session : sessions) {
+            if (read(nodes.get(0), session) < session.acknowledged) {
+                lost++;
+            }
+        }
+        return lost;
+    }
+
+    private static void waitForClusterSize(HazelcastInstance instance, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + RECOVERY_TIMEOUT.toNanos();
+        while (instance.getCluster().getMembers().size() < size) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Cluster did not reach " + size + " members");
+            }
+            Thread.sleep(100);
+        }
+        waitForClusterSafe(instance);
+    }
+
+    private static long waitForClusterSafe(HazelcastInstance instance) throws InterruptedException {
+        long deadline = System.nanoTime() + RECOVERY_TIMEOUT.toNanos();
+        while (!instance.getPartitionService().isClusterSafe() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return System.nanoTime();
+    }
+
+    private static String extract(Pattern pattern, String body) {
+        Matcher matcher = pattern.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static int argument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    private enum BackupMode {
+        // The production defaults
+        SYNC(HazelcastConfig.DEFAULT_SESSION_BACKUP_COUNT, HazelcastConfig.DEFAULT_SESSION_ASYNC_BACKUP_COUNT),
+        ASYNC(0, 1);
+
+        private final int backupCount;
+        private final int asyncBackupCount;
+
+        BackupMode(int backupCount, int asyncBackupCount) {
+            this.backupCount = backupCount;
+            this.asyncBackupCount = asyncBackupCount;
+        }
+    }
+
+    private enum LossMode {
+        TERMINATE,
+        GRACEFUL
+    }
+
+    private record Node(ConfigurableApplicationContext context, HazelcastInstance hazelcastInstance, URI baseUri) {
+        URI uri(String path) {
+            return baseUri.resolve(path);
+        }
+    }
+
+    private static final class TrackedSession {
+        private final String cookie;
+        private final String sessionId;
+        private long acknowledged;
+
+        private TrackedSession(String cookie, String sessionId) {
+            this.cookie = cookie;
+            this.sessionId = sessionId;
+        }
+    }
+
+    private record Sample(long startNanos, long durationNanos) {
+    }
+
+    private record LatencyStats(double p50, double p99, double max, int count) {
+        static LatencyStats of(ConcurrentLinkedQueue<Sample> samples, long fromNanos, long toNanos) {
+            double[] millis = samples.stream()
+                    .filter(sample -> sample.startNanos() >= fromNanos && sample.startNanos() < toNanos)
+                    .mapToDouble(sample -> sample.durationNanos() / 1_000_000.0)
+                    .sorted()
+                    .toArray();
+            if (millis.length == 0) {
+                return new LatencyStats(0, 0, 0, 0);
+            }
+            return new LatencyStats(
+                    millis[(int) (millis.length * 0.50)],
+                    millis[Math.min(millis.length - 1, (int) (millis.length * 0.99))],
+                    Arrays.stream(millis).max().orElse(0),
+                    millis.length);
+        }
+    }
+
+    private record Result(BackupMode backupMode, LossMode lossMode, long timeToReadableMillis, long migrationMillis,
+                          LatencyStats baseline, LatencyStats recovery, long failedRequests, int lostWrites) {
+    }
+
+    /**
+     * Records when partition migrations triggered by the member loss finish
+     */
+    private static final class MigrationTracker implements MigrationListener {
+
+        private final AtomicLong lastFinishedNanos = new AtomicLong();
+
+        @Override
+        public void migrationStarted(MigrationState state) {
+        }
+
+        @Override
+        public void migrationFinished(MigrationState state) {
+            lastFinishedNanos.set(System.nanoTime());
+        }
+
+        @Override
+        public void replicaMigrationCompleted(ReplicaMigrationEvent event) {
+        }
+
+        @Override
+        public void replicaMigrationFailed(ReplicaMigrationEvent event) {
+        }
+    }
+}
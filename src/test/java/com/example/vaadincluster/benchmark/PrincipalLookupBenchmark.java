@@ -0,0 +1,177 @@
+package com.example.vaadincluster.benchmark;
+
+import com.example.vaadincluster.config.HazelcastConfig;
+import com.example.vaadincluster.config.TenantIdExtractor;
+import com.example.vaadincluster.service.SessionExpirationService;
+import com.example.vaadincluster.service.SessionService;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Benchmark comparing indexed principal/tenant lookup and bulk logout against
+ * the unindexed full scan.
+ *
+ * Boots an isolated in-process Hazelcast cluster twice, once with the session
+ * map configuration from {@link HazelcastConfig} and once with its indexes
+ * removed, loads the same sessions and measures {@link SessionService}
+ * lookups and bulk invalidations on both.
+ *
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.example.vaadincluster.benchmark.PrincipalLookupBenchmark \
+ *     -Dexec.args="members sessions principals tenants iterations"
+ * </pre>
+ */
+public class PrincipalLookupBenchmark {
+
+    private static final String CLUSTER_NAME = "vaadin-cluster-benchmark";
+
+    public static void main(String[] args) {
+        int members = argument(args, 0, 2);
+        int sessions = argument(args, 1, 50_000);
+        int principals = argument(args, 2, 5_000);
+        int tenants = argument(args, 3, 50);
+        int iterations = argument(args, 4, 200);
+
+        System.out.printf("Principal lookup benchmark: %d members, %d sessions, %d principals, %d tenants, %d iterations%n",
+                members, sessions, principals, tenants, iterations);
+
+        Map<String, Map<String, Stats>> results = new HashMap<>();
+        for (boolean indexed : new boolean[]{false, true}) {
+            String variant = indexed ? "indexed" : "scan";
+            results.put(variant, run(indexed, members, sessions, principals, tenants, iterations));
+        }
+
+        System.out.printf("%n%-26s %12s %12s %12s %12s%n", "operation", "scan p50", "scan p99", "index p50", "index p99");
+        for (String operation : results.get("scan").keySet().stream().sorted().toList()) {
+            Stats scan = results.get("scan").get(operation);
+            Stats index = results.get("indexed").get(operation);
+            System.out.printf("%-26s %10.3fms %10.3fms %10.3fms %10.3fms%n",
+                    operation, scan.p50(), scan.p99(), index.p50(), index.p99());
+        }
+    }
+
+    private static Map<String, Stats> run(boolean indexed, int members, int sessions,
+                                          int principals, int tenants, int iterations) {
+        List<HazelcastInstance> cluster = startCluster(indexed, members, sessions);
+        // Every member runs its share of a bulk logout through its own expiration service.
+        // No sweep during the run; without a Vaadin service the logout cleanup is a no-op.
+        List<SessionExpirationService> expirationServices = cluster.stream()
+                .map(member -> new SessionExpirationService(member, 500, 1, TimeUnit.DAYS.toMillis(1)))
+                .toList();
+        try {
+            SessionService sessionService = new SessionService(cluster.get(0));
+            load(sessionService.getSessionMap(), sessions, principals, tenants);
+
+            Random random = new Random(42);
+            Map<String, Stats> stats = new HashMap<>();
+
+            // Warm up query paths before measuring
+            measure(iterations / 4 + 1, i -> () -> sessionService.findSessionIdsByPrincipal(principal(random.nextInt(principals))));
+
+            stats.put("findByPrincipal", measure(iterations,
+                    i -> () -> sessionService.findSessionIdsByPrincipal(principal(random.nextInt(principals)))));
+            stats.put("findByTenant", measure(Math.min(iterations, tenants),
+                    i -> () -> sessionService.findSessionIdsByTenant(tenant(random.nextInt(tenants)))));
+            stats.put("invalidateByPrincipal", measure(Math.min(iterations, principals),
+                    i -> () -> sessionService.invalidateSessionsByPrincipal(principal(i))));
+            stats.put("invalidateByTenant", measure(Math.min(iterations, tenants),
+                    i -> () -> sessionService.invalidateSessionsByTenant(tenant(i))));
+
+            return stats;
+        } finally {
+            for (SessionExpirationService expirationService : expirationServices) {
+                try {
+                    expirationService.shutdown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            cluster.forEach(HazelcastInstance::shutdown);
+        }
+    }
+
+    private static List<HazelcastInstance> startCluster(boolean indexed, int members, int sessions) {
+        List<HazelcastInstance> cluster = new ArrayList<>();
+        for (int i = 0; i < members; i++) {
+            MapConfig sessionMapConfig = HazelcastConfig.createSessionMapConfig(
+                    HazelcastConfig.DEFAULT_SESSION_BACKUP_COUNT, HazelcastConfig.DEFAULT_SESSION_ASYNC_BACKUP_COUNT);
+            if (!indexed) {
+                sessionMapConfig.setIndexConfigs(new ArrayList<>());
+            }
+            // Keep eviction from skewing the results when loading more sessions than the production limit
+            sessionMapConfig.getEvictionConfig().setSize(
+                    Math.max(sessionMapConfig.getEvictionConfig().getSize(), sessions));
+
+            Config config = new Config();
+            config.setInstanceName(CLUSTER_NAME + "-" + (indexed ? "indexed" : "scan") + "-" + i);
+            config.setClusterName(CLUSTER_NAME + "-" + (indexed ? "indexed" : "scan"));
+            config.getNetworkConfig().setPort(5801).setPortAutoIncrement(true);
+            JoinConfig joinConfig = config.getNetworkConfig().getJoin();
+            joinConfig.getMulticastConfig().setEnabled(false);
+            joinConfig.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+            config.addMapConfig(sessionMapConfig);
+            cluster.add(Hazelcast.newHazelcastInstance(config));
+        }
+        return cluster;
+    }
+
+    private static void load(IMap<String, Object> sessionMap, int sessions, int principals, int tenants) {
+        Map<String, Object> batch = new HashMap<>();
+        for (int i = 0; i < sessions; i++) {
+            MapSession session = new MapSession(UUID.randomUUID().toString());
+            session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principal(i % principals));
+            session.setAttribute(TenantIdExtractor.TENANT_ID_ATTRIBUTE, tenant(i % tenants));
+            batch.put(session.getId(), session);
+            if (batch.size() == 1_000) {
+                sessionMap.putAll(batch);
+                batch.clear();
+            }
+        }
+        sessionMap.putAll(batch);
+    }
+
+    private static Stats measure(int iterations, IntFunction<Runnable> operation) {
+        double[] millis = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            Runnable runnable = operation.apply(i);
+            long start = System.nanoTime();
+            runnable.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return new Stats(millis[(int) (iterations * 0.50)], millis[Math.min(iterations - 1, (int) (iterations * 0.99))]);
+    }
+
+    private static String principal(int index) {
+        return "user-" + index;
+    }
+
+    private static String tenant(int index) {
+        return "tenant-" + index;
+    }
+
+    private static int argument(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+
+    private record Stats(double p50, double p99) {
+    }
+}
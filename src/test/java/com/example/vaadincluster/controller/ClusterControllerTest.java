@@ -0,0 +1,80 @@
+package com.example.vaadincluster.controller;
+
+import com.example.vaadincluster.service.SessionExpirationService;
+import com.example.vaadincluster.service.SessionService;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests for the admin token guard of the per-user session endpoints in {@link ClusterController}.
+ */
+class ClusterControllerTest {
+
+    private static final String TOKEN_HEADER = "X-Cluster-Admin-Token";
+
+    private final SessionService sessionService = mock(SessionService.class);
+
+    @Test
+    void rejectsEveryRequestWhenNoTokenIsConfigured() throws Exception {
+        MockMvc mockMvc = mockMvc("");
+
+        mockMvc.perform(delete("/api/cluster/sessions/principal/alice"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/cluster/sessions/principal/alice").header(TOKEN_HEADER, ""))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cluster/sessions/tenant/acme").header(TOKEN_HEADER, "anything"))
+                .andExpect(status().isForbidden());
+
+        verify(sessionService, never()).invalidateSessionsByPrincipal(anyString());
+        verify(sessionService, never()).findSessionIdsByTenant(anyString());
+    }
+
+    @Test
+    void rejectsMissingOrWrongToken() throws Exception {
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(delete("/api/cluster/sessions/tenant/acme"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/cluster/sessions/tenant/acme").header(TOKEN_HEADER, "s3cre"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/cluster/sessions/principal/alice").header(TOKEN_HEADER, "S3CRET"))
+                .andExpect(status().isForbidden());
+
+        verify(sessionService, never()).invalidateSessionsByTenant(anyString());
+        verify(sessionService, never()).findSessionIdsByPrincipal(anyString());
+    }
+
+    @Test
+    void acceptsConfiguredToken() throws Exception {
+        when(sessionService.invalidateSessionsByPrincipal("alice")).thenReturn(3);
+        when(sessionService.findSessionIdsByTenant("acme")).thenReturn(Set.of("a", "b"));
+        MockMvc mockMvc = mockMvc("s3cret");
+
+        mockMvc.perform(delete("/api/cluster/sessions/principal/alice").header(TOKEN_HEADER, "s3cret"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.invalidated").value(3));
+        mockMvc.perform(get("/api/cluster/sessions/tenant/acme").header(TOKEN_HEADER, "s3cret"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2));
+    }
+
+    private MockMvc mockMvc(String adminToken) {
+        ClusterController controller = new ClusterController(mock(HazelcastInstance.class), sessionService,
+                mock(SessionExpirationService.class), adminToken);
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+}
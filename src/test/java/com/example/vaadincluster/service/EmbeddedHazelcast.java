@@ -0,0 +1,32 @@
+package com.example.vaadincluster.service;
+
+import com.example.vaadincluster.config.HazelcastConfig;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * Isolated in-process Hazelcast members with the production session map configuration
+ */
+final class EmbeddedHazelcast {
+
+    private EmbeddedHazelcast() {
+    }
+
+    /**
+     * Start a member of the given cluster, joined to the other members of the same name over TCP/IP on localhost
+     */
+    static HazelcastInstance newMember(String clusterName) {
+        Config config = new Config();
+        config.setClusterName(clusterName);
+        config.setProperty("hazelcast.phone.home.enabled", "false");
+        config.getNetworkConfig().setPort(5961).setPortAutoIncrement(true);
+        JoinConfig joinConfig = config.getNetworkConfig().getJoin();
+        joinConfig.getMulticastConfig().setEnabled(false);
+        joinConfig.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        config.addMapConfig(HazelcastConfig.createSessionMapConfig(
+                HazelcastConfig.DEFAULT_SESSION_BACKUP_COUNT, HazelcastConfig.DEFAULT_SESSION_ASYNC_BACKUP_COUNT));
+        return Hazelcast.newHazelcastInstance(config);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.vaadincluster.service;
+
+import com.example.vaadincluster.config.HazelcastConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSession;
+import org.springframework.session.hazelcast.HazelcastIndexedSessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the idle session sweep of {@link SessionExpirationService} against an embedded Hazelcast member.
+ */
+class SessionExpirationServiceTest {
+
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(HazelcastConfig.SESSION_BACKSTOP_IDLE_SECONDS);
+
+    private HazelcastInstance member;
+    private SessionExpirationService expirationService;
+    private IMap<String, Object> sessionMap;
+
+    @BeforeEach
+    void startMember() {
+        member = EmbeddedHazelcast.newMember("session-expiration-test-" + UUID.randomUUID());
+        sessionMap = member.getMap(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME);
+    }
+
+    @AfterEach
+    void stopMember() throws InterruptedException {
+        expirationService.shutdown();
+        member.shutdown();
+    }
+
+    @Test
+    void sweepsSessionsPastTheirOwnEffectiveInterval() throws InterruptedException {
+        Duration idle = Duration.ofSeconds(HazelcastConfig.SESSION_MAX_IDLE_SECONDS + 1);
+        String expired = put(DEFAULT_INTERVAL, idle);
+        String withinBackstopMargin = put(DEFAULT_INTERVAL, Duration.ofSeconds(HazelcastConfig.SESSION_MAX_IDLE_SECONDS - 5));
+        String longerInterval = put(Duration.ofHours(2), idle);
+        String neverExpires = put(Duration.ofSeconds(-1), Duration.ofDays(30));
+        String active = put(DEFAULT_INTERVAL, Duration.ZERO);
+
+        expirationService = new SessionExpirationService(member, 500, 1, 50);
+        awaitExpired(1);
+
+        assertThat(sessionMap.containsKey(expired)).isFalse();
+        assertThat(sessionMap.keySet()).containsExactlyInAnyOrder(withinBackstopMargin, longerInterval, neverExpires, active);
+    }
+
+    @Test
+    void sweepsInBatches() throws InterruptedException {
+        for (int i = 0; i < 25; i++) {
+            put(DEFAULT_INTERVAL, DEFAULT_INTERVAL);
+        }
+
+        expirationService = new SessionExpirationService(member, 10, 1, 50);
+        awaitExpired(25);
+
+        assertThat(sessionMap.isEmpty()).isTrue();
+        assertThat((Long) expirationService.getExpirationStats().get("batches")).isGreaterThanOrEqualTo(3);
+    }
+
+    private String put(Duration maxInactiveInterval, Duration idle) {
+        MapSession session = new MapSession(UUID.randomUUID().toString());
+        session.setMaxInactiveInterval(maxInactiveInterval);
+        session.setLastAccessedTime(Instant.now().minus(idle));
+        sessionMap.set(session.getId(), session);
+        return session.getId();
+    }
+
+    private void awaitExpired(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while ((Long) expirationService.getExpirationStats().get("expired") < count) {
+            assertThat(System.nanoTime()).as("sessions expired in time").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
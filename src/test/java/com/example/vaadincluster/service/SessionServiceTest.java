@@ -0,0 +1,103 @@
+package com.example.vaadincluster.service;
+
+import com.example.vaadincluster.config.TenantIdExtractor;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for indexed lookup and bulk invalidation in {@link SessionService}
+ * against a two member embedded Hazelcast cluster.
+ */
+class SessionServiceTest {
+
+    private static final List<HazelcastInstance> members = new ArrayList<>();
+    private static final List<SessionExpirationService> expirationServices = new ArrayList<>();
+
+    private static SessionService sessionService;
+
+    @BeforeAll
+    static void startCluster() {
+        String clusterName = "session-service-test-" + UUID.randomUUID();
+        for (int i = 0; i < 2; i++) {
+            HazelcastInstance member = EmbeddedHazelcast.newMember(clusterName);
+            members.add(member);
+            // No sweep during the test
+            expirationServices.add(new SessionExpirationService(member, 500, 1, TimeUnit.DAYS.toMillis(1)));
+        }
+        sessionService = new SessionService(members.get(0));
+    }
+
+    @AfterAll
+    static void stopCluster() throws InterruptedException {
+        for (SessionExpirationService expirationService : expirationServices) {
+            expirationService.shutdown();
+        }
+        members.forEach(HazelcastInstance::shutdown);
+    }
+
+    @BeforeEach
+    void loadSessions() {
+        IMap<String, Object> sessionMap = sessionService.getSessionMap();
+        sessionMap.clear();
+        for (int i = 0; i < 100; i++) {
+            MapSession session = new MapSession(UUID.randomUUID().toString());
+            session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, i % 4 == 0 ? "alice" : "bob");
+            session.setAttribute(TenantIdExtractor.TENANT_ID_ATTRIBUTE, i % 10 == 0 ? "acme" : "globex");
+            sessionMap.set(session.getId(), session);
+        }
+    }
+
+    @Test
+    void findsSessionsByPrincipalAndTenant() {
+        assertThat(sessionService.findSessionIdsByPrincipal("alice")).hasSize(25);
+        assertThat(sessionService.findSessionIdsByTenant("acme")).hasSize(10);
+        assertThat(sessionService.findSessionIdsByPrincipal("mallory")).isEmpty();
+    }
+
+    @Test
+    void invalidatesSessionsOfPrincipalOnEveryMember() {
+        long invalidatedBefore = invalidatedOnAllMembers();
+
+        assertThat(sessionService.invalidateSessionsByPrincipal("alice")).isEqualTo(25);
+
+        assertThat(sessionService.findSessionIdsByPrincipal("alice")).isEmpty();
+        assertThat(sessionService.getTotalActiveSessions()).isEqualTo(75);
+        assertThat(invalidatedOnAllMembers() - invalidatedBefore).isEqualTo(25);
+        // Both members owned some of the sessions and did their share
+        assertThat(expirationServices).allSatisfy(service ->
+                assertThat((Long) service.getExpirationStats().get("invalidated")).isPositive());
+    }
+
+    @Test
+    void invalidatesSessionsOfTenant() {
+        assertThat(sessionService.invalidateSessionsByTenant("acme")).isEqualTo(10);
+
+        assertThat(sessionService.findSessionIdsByTenant("acme")).isEmpty();
+        assertThat(sessionService.findSessionIdsByTenant("globex")).hasSize(90);
+    }
+
+    @Test
+    void invalidatesNothingWithoutMatches() {
+        assertThat(sessionService.invalidateSessionsByPrincipal("mallory")).isZero();
+        assertThat(sessionService.getTotalActiveSessions()).isEqualTo(100);
+    }
+
+    private static long invalidatedOnAllMembers() {
+        return expirationServices.stream()
+                .mapToLong(service -> (Long) service.getExpirationStats().get("invalidated"))
+                .sum();
+    }
+}
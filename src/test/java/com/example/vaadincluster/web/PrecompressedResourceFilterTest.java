@@ -0,0 +1,148 @@
+package com.example.vaadincluster.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrecompressedResourceFilter} against the fake bundle in
+ * {@code src/test/resources/precompressed-bundle}, whose .br/.gz variants hold
+ * plain marker text instead of compressed data.
+ */
+class PrecompressedResourceFilterTest {
+
+    private static final String HASHED_FILE = "/VAADIN/build/app-DzG7Ujb4.js";
+
+    private final PrecompressedResourceFilter filter =
+            new PrecompressedResourceFilter("/VAADIN/build/", "precompressed-bundle/");
+
+    @Test
+    void servesBrotliWhenAccepted() throws Exception {
+        MockHttpServletResponse response = get(HASHED_FILE, "gzip, deflate, br");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("br");
+        assertThat(response.getContentAsString()).isEqualTo("brotli-variant\n");
+        assertThat(response.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+    }
+
+    @Test
+    void skipsCodingsWithZeroQuality() throws Exception {
+        MockHttpServletResponse response = get(HASHED_FILE, "br;q=0, gzip");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getContentAsString()).isEqualTo("gzip-variant\n");
+    }
+
+    @Test
+    void servesIdentityWhenNoCodingIsAccepted() throws Exception {
+        for (String acceptEncoding : new String[]{null, "identity", "br;q=0, gzip;q=0.0", "*;q=0", "brotli, x-gzip"}) {
+            MockHttpServletResponse response = get(HASHED_FILE, acceptEncoding);
+
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).as(acceptEncoding).isNull();
+            assertThat(response.getContentAsString()).as(acceptEncoding).isEqualTo("console.log('identity');\n");
+        }
+    }
+
+    @Test
+    void parsesAcceptEncodingTokens() {
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("gzip, deflate, br", "br")).isTrue();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("BR ; Q=0.5", "br")).isTrue();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("br;q=0", "br")).isFalse();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("br;q=0.000", "br")).isFalse();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("br;q=oops", "br")).isFalse();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("brotli", "br")).isFalse();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("*", "gzip")).isTrue();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("gzip;q=0, *", "gzip")).isFalse();
+        assertThat(PrecompressedResourceFilter.acceptsEncoding("br, *;q=0", "gzip")).isFalse();
+    }
+
+    @Test
+    void answersNotModifiedForMatchingEtag() throws Exception {
+        String etag = get(HASHED_FILE, "gzip").getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = request("GET", HASHED_FILE, "gzip");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void usesDistinctEtagsPerVariant() throws Exception {
+        assertThat(get(HASHED_FILE, "br").getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(get(HASHED_FILE, "gzip").getHeader(HttpHeaders.ETAG))
+                .isNotEqualTo(get(HASHED_FILE, null).getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void cachesOnlyHashedFilesAsImmutable() throws Exception {
+        assertThat(get(HASHED_FILE, null).getHeader(HttpHeaders.CACHE_CONTROL)).contains("immutable");
+        assertThat(get("/VAADIN/build/index.html", null).getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+    }
+
+    @Test
+    void handsBodyToSendfileWhenSupported() throws Exception {
+        MockHttpServletRequest request = request("GET", HASHED_FILE, "br");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat((String) request.getAttribute("org.apache.tomcat.sendfile.filename")).endsWith("app-DzG7Ujb4.js.br");
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo((long) "brotli-variant\n".length());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void fallsThroughForMissingAndUnsafePaths() throws Exception {
+        for (String path : new String[]{"/VAADIN/build/missing-DzG7Ujb4.js", "/VAADIN/build/app-DzG7Ujb4.js.br",
+                "/VAADIN/build/../app-DzG7Ujb4.js"}) {
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request("GET", path, "br"), new MockHttpServletResponse(), chain);
+
+            assertThat(chain.getRequest()).as(path).isNotNull();
+        }
+    }
+
+    @Test
+    void detectsContentHashedFileNames() {
+        assertThat(PrecompressedResourceFilter.isHashed("indexhtml-DzG7Ujb4.js")).isTrue();
+        assertThat(PrecompressedResourceFilter.isHashed("FlowClient-DyX-lPTb.js")).isTrue();
+        assertThat(PrecompressedResourceFilter.isHashed("assets/chunk-CA1x_9zQ.css")).isTrue();
+        assertThat(PrecompressedResourceFilter.isHashed("settings-abcdefgh.js")).isFalse();
+        assertThat(PrecompressedResourceFilter.isHashed("index.html")).isFalse();
+        assertThat(PrecompressedResourceFilter.isHashed("app-DzG7Ujb4.js/readme")).isFalse();
+    }
+
+    @Test
+    void rejectsUnsafePaths() {
+        assertThat(PrecompressedResourceFilter.isSafePath("assets/app-DzG7Ujb4.js")).isTrue();
+        assertThat(PrecompressedResourceFilter.isSafePath("")).isFalse();
+        assertThat(PrecompressedResourceFilter.isSafePath("/etc/passwd")).isFalse();
+        assertThat(PrecompressedResourceFilter.isSafePath("../application.properties")).isFalse();
+        assertThat(PrecompressedResourceFilter.isSafePath("assets\\app.js")).isFalse();
+        assertThat(PrecompressedResourceFilter.isSafePath("app.js.br")).isFalse();
+        assertThat(PrecompressedResourceFilter.isSafePath("app.js.gz")).isFalse();
+    }
+
+    private MockHttpServletResponse get(String path, String acceptEncoding) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request("GET", path, acceptEncoding), response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String path, String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+}